@@ -0,0 +1,48 @@
+package com.example.warmup;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks the driver's configured {@code minPoolSize} and how many connections are currently open
+ * per server pool, so the warm-up can fill the primary's pool to the same minimum the driver maintains.
+ */
+public class MongoPoolMonitor implements ConnectionPoolListener {
+
+    private final Map<ServerAddress, AtomicInteger> openConnections = new ConcurrentHashMap<>();
+    private final Map<ServerAddress, Integer> minSizes = new ConcurrentHashMap<>();
+
+    @Override
+    public void connectionPoolCreated(ConnectionPoolCreatedEvent event) {
+        minSizes.put(event.getServerId().getAddress(), event.getSettings().getMinSize());
+    }
+
+    @Override
+    public void connectionCreated(ConnectionCreatedEvent event) {
+        counter(event.getConnectionId().getServerId().getAddress()).incrementAndGet();
+    }
+
+    @Override
+    public void connectionClosed(ConnectionClosedEvent event) {
+        counter(event.getConnectionId().getServerId().getAddress()).decrementAndGet();
+    }
+
+    public int getMinSize(ServerAddress address) {
+        return minSizes.getOrDefault(address, 0);
+    }
+
+    public int getOpenConnections(ServerAddress address) {
+        return counter(address).get();
+    }
+
+    private AtomicInteger counter(ServerAddress address) {
+        return openConnections.computeIfAbsent(address, key -> new AtomicInteger());
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.warmup;
+
+import java.util.Arrays;
+
+record RoundStats(long mean, long p99) {
+
+    static RoundStats of(long[] latencies) {
+        if (latencies.length == 0) {
+            throw new IllegalArgumentException("A round needs at least one latency sample");
+        }
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        long mean = (long) Arrays.stream(sorted).average().orElse(0);
+        int index = (int) Math.ceil(sorted.length * 0.99) - 1;
+        return new RoundStats(mean, sorted[Math.max(0, index)]);
+    }
+
+    boolean isStableAfter(RoundStats previous, double tolerance) {
+        if (previous.mean == 0) {
+            return mean == 0;
+        }
+        return Math.abs(mean - previous.mean) / (double) previous.mean < tolerance;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.warmup;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+@ConditionalOnProperty(prefix = "warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupConfig {
+
+    @Bean
+    public MongoPoolMonitor mongoPoolMonitor() {
+        return new MongoPoolMonitor();
+    }
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoPoolMonitorCustomizer(MongoPoolMonitor mongoPoolMonitor) {
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool.addConnectionPoolListener(mongoPoolMonitor));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.warmup;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Data
+@Validated
+@ConfigurationProperties(prefix = "warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+
+    // Budget for the whole warm-up, readiness is held back at most this long
+    @NotNull
+    private Duration maxDuration = Duration.ofSeconds(30);
+
+    // Synthetic requests replayed per round
+    @Min(1)
+    private int requestsPerRound = 50;
+
+    @Min(1)
+    private int minRounds = 3;
+
+    @Min(1)
+    private int maxRounds = 40;
+
+    // Latency is stable once the mean of two consecutive rounds differs by less than this fraction
+    @DecimalMin(value = "0.0", inclusive = false)
+    @DecimalMax("1.0")
+    private double stabilityTolerance = 0.1;
+
+    @AssertTrue(message = "warmup.max-duration must be positive")
+    public boolean isMaxDurationPositive() {
+        return maxDuration == null || maxDuration.toNanos() > 0;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.warmup;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Outcome of a warm-up run. Phases fill it from their own threads, so every field is safe to read
+ * while a phase that overran its budget is still writing.
+ */
+@Getter
+@Setter
+class WarmupReport {
+
+    private volatile int postgresConnections;
+    private volatile int mongoConnections;
+    private volatile int rounds;
+    private volatile RoundStats firstRound;
+    private volatile RoundStats lastRound;
+    private volatile boolean stabilized;
+    private volatile Duration duration;
+    private final List<String> abortedPhases = new CopyOnWriteArrayList<>();
+}
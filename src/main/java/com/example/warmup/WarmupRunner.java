@@ -0,0 +1,334 @@
+package com.example.warmup;
+
+import com.example.admin.entity.Admin;
+import com.example.admin.repository.AdminRepository;
+import com.example.employee.entity.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import com.mongodb.ServerAddress;
+import com.mongodb.client.MongoClient;
+import com.mongodb.connection.ServerDescription;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.server.Ssl;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestClient;
+
+import javax.sql.DataSource;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Warms both stores and the request path before the application accepts traffic.
+ * <p>
+ * Application runners complete before Spring Boot publishes
+ * {@code ReadinessState.ACCEPTING_TRAFFIC}, so the readiness probe keeps reporting
+ * OUT_OF_SERVICE until this runner returns. Each phase runs under its own slice of
+ * {@code warmup.max-duration} and is abandoned once that runs out, so one failing store
+ * still leaves time for the others and the runner returns within the budget.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final String PROBE_VALUE = "warmup@example.invalid";
+
+    // pgjdbc switches a statement to a server-side prepared statement on its fifth execution per connection
+    private static final int PREPARE_THRESHOLD = 5;
+
+    // The driver opens at most two connections at a time per pool, so fast pings need a few waves
+    private static final int MAX_PING_WAVES = 10;
+
+    // Share of max-duration each store phase may use, the replay gets whatever is left
+    private static final int STORE_PHASE_DIVISOR = 3;
+
+    private final WarmupProperties properties;
+    private final ApplicationContext applicationContext;
+    private final ObjectProvider<ServerProperties> serverProperties;
+    private final ObjectProvider<RestClient.Builder> restClientBuilder;
+    private final DataSource dataSource;
+    private final PlatformTransactionManager transactionManager;
+    private final MongoClient mongoClient;
+    private final MongoTemplate mongoTemplate;
+    private final MongoPoolMonitor mongoPoolMonitor;
+    private final AdminRepository adminRepository;
+    private final EmployeeRepository employeeRepository;
+
+    private volatile WarmupReport report;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.nanoTime();
+        long deadline = start + properties.getMaxDuration().toNanos();
+        long storeBudget = properties.getMaxDuration().toNanos() / STORE_PHASE_DIVISOR;
+        WarmupReport current = new WarmupReport();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            long postgresDeadline = Math.min(deadline, System.nanoTime() + storeBudget);
+            runPhase(executor, "postgres", postgresDeadline, current,
+                    () -> preparePostgresConnections(executor, postgresDeadline, current));
+
+            long mongoDeadline = Math.min(deadline, System.nanoTime() + storeBudget);
+            runPhase(executor, "mongo", mongoDeadline, current,
+                    () -> fillMongoPool(executor, mongoDeadline, current));
+
+            runPhase(executor, "replay", deadline, current, () -> replayReadMix(deadline, current));
+        } finally {
+            // Not awaiting termination: a phase stuck in a driver call must not hold back readiness
+            executor.shutdownNow();
+            current.setDuration(Duration.ofNanos(System.nanoTime() - start));
+            report = current;
+        }
+        log.info("Warm-up finished in {} ms, aborted phases: {}",
+                millis(current.getDuration().toNanos()), current.getAbortedPhases());
+    }
+
+    WarmupReport getReport() {
+        return report;
+    }
+
+    private void runPhase(ExecutorService executor, String name, long phaseDeadline, WarmupReport current, Phase phase) {
+        if (Thread.currentThread().isInterrupted()) {
+            current.getAbortedPhases().add(name);
+            return;
+        }
+        Future<?> future = executor.submit(() -> {
+            phase.run();
+            return null;
+        });
+        try {
+            future.get(remaining(phaseDeadline), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            current.getAbortedPhases().add(name);
+            log.warn("Warm-up phase {} exceeded its budget and was abandoned", name);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            current.getAbortedPhases().add(name);
+            log.warn("Warm-up phase {} interrupted", name);
+        } catch (ExecutionException e) {
+            // A failed phase only costs latency, it must not block the deploy or the other phases
+            current.getAbortedPhases().add(name);
+            log.warn("Warm-up phase {} aborted: {}", name, e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private void preparePostgresConnections(ExecutorService executor, long deadline, WarmupReport current)
+            throws Exception {
+        // Starts the pool, Hikari resolves minimumIdle against maximumPoolSize only once it is running
+        dataSource.getConnection().close();
+        int workers = 1;
+        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+            workers = Math.max(1, dataSource.unwrap(HikariDataSource.class).getMinimumIdle());
+        } else {
+            log.info("Warm-up found no HikariDataSource, preparing admin queries on a single connection");
+        }
+
+        // Every worker holds its transaction, and so its connection, until all workers have one,
+        // which spreads the prepared statements over minimumIdle distinct connections
+        CyclicBarrier barrier = new CyclicBarrier(workers);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+        List<Future<?>> tasks = new ArrayList<>();
+        try {
+            for (int i = 0; i < workers; i++) {
+                tasks.add(executor.submit(() -> transaction.executeWithoutResult(status -> {
+                    for (int n = 0; n < PREPARE_THRESHOLD; n++) {
+                        adminRepository.findByUsername(PROBE_VALUE);
+                        adminRepository.findByEmail(PROBE_VALUE);
+                    }
+                    awaitOtherWorkers(barrier, deadline);
+                })));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            // Interrupts workers still waiting in getConnection when the phase is abandoned
+            tasks.forEach(task -> task.cancel(true));
+        }
+        current.setPostgresConnections(workers);
+        log.info("Warm-up prepared admin queries on {} PostgreSQL connections", workers);
+    }
+
+    private void fillMongoPool(ExecutorService executor, long deadline, WarmupReport current) throws Exception {
+        mongoTemplate.executeCommand(new Document("ping", 1));
+        ServerAddress primary = mongoClient.getClusterDescription().getServerDescriptions().stream()
+                .filter(ServerDescription::isOk)
+                .filter(server -> server.isPrimary() || server.isStandAlone() || server.isShardRouter())
+                .map(ServerDescription::getAddress)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Warm-up found no writable MongoDB server"));
+        int target = Math.max(1, mongoPoolMonitor.getMinSize(primary));
+
+        // Concurrent pings make the primary's pool open connections until it holds the driver's minPoolSize
+        List<Future<Document>> pings = new ArrayList<>();
+        try {
+            for (int wave = 0; wave < MAX_PING_WAVES && mongoPoolMonitor.getOpenConnections(primary) < target
+                    && System.nanoTime() < deadline; wave++) {
+                pings.clear();
+                for (int i = 0; i < target; i++) {
+                    pings.add(executor.submit(() -> mongoTemplate.executeCommand(new Document("ping", 1))));
+                }
+                for (Future<Document> ping : pings) {
+                    ping.get();
+                }
+            }
+        } finally {
+            pings.forEach(ping -> ping.cancel(true));
+        }
+
+        // Mongo has no prepared statements, one call warms query derivation and document mapping
+        employeeRepository.findByEmail(PROBE_VALUE);
+
+        current.setMongoConnections(mongoPoolMonitor.getOpenConnections(primary));
+        log.info("Warm-up holds {} MongoDB connections to {} (minPoolSize {})",
+                current.getMongoConnections(), primary, mongoPoolMonitor.getMinSize(primary));
+    }
+
+    private void replayReadMix(long deadline, WarmupReport current) {
+        ServerProperties server = serverProperties.getIfAvailable();
+        RestClient.Builder builder = restClientBuilder.getIfAvailable();
+        if (!(applicationContext instanceof WebServerApplicationContext webContext) || server == null || builder == null) {
+            log.info("Warm-up skipped request replay, no embedded web server");
+            return;
+        }
+        RestClient client = builder
+                .baseUrl(baseUrl(server, webContext.getWebServer().getPort()))
+                .build();
+
+        // The probe ids never exist, so the controllers answer with an empty 404 and a wrong base URL shows up
+        requireReachable(client, "/api/employees/" + PROBE_VALUE);
+        requireReachable(client, "/api/admins/0");
+
+        // Replaying an existing entity warms Jackson serialization, an empty store falls back to the 404 path
+        String employeeId = employeeRepository.findAll(PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .map(Employee::getId)
+                .orElse(PROBE_VALUE);
+        String adminId = adminRepository.findAll(PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .map(Admin::getId)
+                .map(String::valueOf)
+                .orElse("0");
+        String[] paths = {"/api/employees/" + employeeId, "/api/admins/" + adminId};
+
+        RoundStats previous = null;
+        while (current.getRounds() < properties.getMaxRounds() && System.nanoTime() < deadline) {
+            RoundStats round = runRound(client, paths, deadline);
+            if (round == null) {
+                break;
+            }
+            current.setRounds(current.getRounds() + 1);
+            if (current.getFirstRound() == null) {
+                current.setFirstRound(round);
+            }
+            current.setLastRound(round);
+            if (current.getRounds() >= properties.getMinRounds() && previous != null
+                    && round.isStableAfter(previous, properties.getStabilityTolerance())) {
+                current.setStabilized(true);
+                break;
+            }
+            previous = round;
+        }
+        if (current.getFirstRound() == null) {
+            return;
+        }
+        log.info("Warm-up replayed {} rounds ({}); mean {} ms -> {} ms, p99 {} ms -> {} ms",
+                current.getRounds(), current.isStabilized() ? "stable" : "not stable",
+                millis(current.getFirstRound().mean()), millis(current.getLastRound().mean()),
+                millis(current.getFirstRound().p99()), millis(current.getLastRound().p99()));
+    }
+
+    private RoundStats runRound(RestClient client, String[] paths, long deadline) {
+        long[] latencies = new long[properties.getRequestsPerRound()];
+        int count = 0;
+        while (count < latencies.length && System.nanoTime() < deadline) {
+            long start = System.nanoTime();
+            client.get()
+                    .uri(paths[count % paths.length])
+                    .retrieve()
+                    .onStatus(status -> status.value() == 404, (request, response) -> { })
+                    .toBodilessEntity();
+            latencies[count++] = System.nanoTime() - start;
+        }
+        return count == 0 ? null : RoundStats.of(Arrays.copyOf(latencies, count));
+    }
+
+    private void requireReachable(RestClient client, String path) {
+        client.get()
+                .uri(path)
+                .retrieve()
+                .onStatus(status -> status.value() == 404, (request, response) -> {
+                    // The controllers answer 404 without a body, a body means Spring's error page found no handler
+                    if (response.getBody().readAllBytes().length > 0) {
+                        throw new IllegalStateException("Warm-up found no handler at " + request.getURI()
+                                + ", the base URL does not match the server configuration");
+                    }
+                })
+                .toBodilessEntity();
+    }
+
+    private static String baseUrl(ServerProperties server, int port) {
+        Ssl ssl = server.getSsl();
+        String scheme = ssl != null && ssl.isEnabled() ? "https" : "http";
+        InetAddress address = server.getAddress();
+        String host = "localhost";
+        if (address != null && !address.isAnyLocalAddress()) {
+            host = address instanceof Inet6Address ? "[" + address.getHostAddress() + "]" : address.getHostAddress();
+        }
+        String contextPath = server.getServlet().getContextPath();
+        return scheme + "://" + host + ":" + port + (contextPath == null ? "" : contextPath);
+    }
+
+    private static void awaitOtherWorkers(CyclicBarrier barrier, long deadline) {
+        try {
+            barrier.await(remaining(deadline), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Warm-up interrupted", e);
+        } catch (BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException("Warm-up could not hold all PostgreSQL connections at once", e);
+        }
+    }
+
+    private static long remaining(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1_000_000.0);
+    }
+
+    @FunctionalInterface
+    private interface Phase {
+        void run() throws Exception;
+    }
+}
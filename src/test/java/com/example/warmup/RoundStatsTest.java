@@ -0,0 +1,66 @@
+package com.example.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Warm-up Round Statistics Tests")
+class RoundStatsTest {
+
+    @Test
+    @DisplayName("Should compute mean and p99 of a round")
+    void testMeanAndP99() {
+        long[] latencies = LongStream.rangeClosed(1, 100).map(i -> 101 - i).toArray();
+
+        RoundStats stats = RoundStats.of(latencies);
+
+        assertThat(stats.mean()).isEqualTo(50);
+        assertThat(stats.p99()).isEqualTo(99);
+    }
+
+    @Test
+    @DisplayName("Should use the only sample as p99 of a single request round")
+    void testSingleSample() {
+        RoundStats stats = RoundStats.of(new long[]{42});
+
+        assertThat(stats.mean()).isEqualTo(42);
+        assertThat(stats.p99()).isEqualTo(42);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty round")
+    void testEmptyRound() {
+        assertThatThrownBy(() -> RoundStats.of(new long[0]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should be stable when the mean changes less than the tolerance")
+    void testStableWithinTolerance() {
+        RoundStats previous = new RoundStats(1_000, 2_000);
+
+        assertThat(new RoundStats(950, 1_500).isStableAfter(previous, 0.1)).isTrue();
+        assertThat(new RoundStats(1_090, 1_500).isStableAfter(previous, 0.1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not be stable when the mean changes by the tolerance or more")
+    void testUnstableOutsideTolerance() {
+        RoundStats previous = new RoundStats(1_000, 2_000);
+
+        assertThat(new RoundStats(500, 900).isStableAfter(previous, 0.1)).isFalse();
+        assertThat(new RoundStats(1_100, 2_000).isStableAfter(previous, 0.1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should only be stable after a zero mean round when the mean stays zero")
+    void testZeroMean() {
+        RoundStats previous = new RoundStats(0, 0);
+
+        assertThat(new RoundStats(0, 0).isStableAfter(previous, 0.1)).isTrue();
+        assertThat(new RoundStats(1, 1).isStableAfter(previous, 0.1)).isFalse();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "warmup.enabled=true")
+@Testcontainers
+@ActiveProfiles("test")
+@DisplayName("Warm-up Readiness Integration Tests")
+class WarmupReadinessTest {
+
+    @Container
+    @ServiceConnection
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:7.0");
+
+    private static final AtomicReference<ReadinessState> readinessBeforeWarmup = new AtomicReference<>();
+    private static final AtomicBoolean reportPresentBeforeWarmup = new AtomicBoolean(true);
+    private static final AtomicBoolean reportPresentWhenAcceptingTraffic = new AtomicBoolean();
+
+    @Autowired
+    private WarmupRunner warmupRunner;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @TestConfiguration
+    static class ReadinessRecorder {
+
+        @Bean
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        ApplicationRunner readinessBeforeWarmupRecorder(ApplicationAvailability availability, WarmupRunner runner) {
+            return args -> {
+                readinessBeforeWarmup.set(availability.getReadinessState());
+                reportPresentBeforeWarmup.set(runner.getReport() != null);
+            };
+        }
+
+        @Bean
+        ApplicationListener<AvailabilityChangeEvent<ReadinessState>> acceptingTrafficRecorder() {
+            return event -> {
+                if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+                    ApplicationContext context = (ApplicationContext) event.getSource();
+                    reportPresentWhenAcceptingTraffic.set(context.getBean(WarmupRunner.class).getReport() != null);
+                }
+            };
+        }
+    }
+
+    @Test
+    @DisplayName("Should refuse traffic until warm-up has completed")
+    void testReadinessWaitsForWarmup() {
+        assertThat(readinessBeforeWarmup.get()).isEqualTo(ReadinessState.REFUSING_TRAFFIC);
+        assertThat(reportPresentBeforeWarmup.get()).isFalse();
+        assertThat(reportPresentWhenAcceptingTraffic.get()).isTrue();
+        assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+    }
+
+    @Test
+    @DisplayName("Should run every warm-up phase to completion")
+    void testWarmupReport() {
+        WarmupReport report = warmupRunner.getReport();
+
+        assertThat(report.getAbortedPhases()).isEmpty();
+        // Hikari defaults minimumIdle to maximumPoolSize, which is 10
+        assertThat(report.getPostgresConnections()).isEqualTo(10);
+        assertThat(report.getMongoConnections()).isPositive();
+        assertThat(report.getRounds()).isBetween(3, 40);
+        assertThat(report.getFirstRound()).isNotNull();
+        assertThat(report.getLastRound()).isNotNull();
+        assertThat(report.getDuration()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should report readiness probe UP after warm-up")
+    void testReadinessProbeUp() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/health/readiness", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).contains("\"status\":\"UP\"");
+    }
+}